@@ -32,6 +32,7 @@ import org.kaazing.k3po.lang.el.BytesMatcher;
 import org.kaazing.k3po.lang.el.Function;
 import org.kaazing.k3po.lang.el.spi.FunctionMapperSpi;
 import org.reaktivity.specification.kafka.internal.types.Array32FW;
+import org.reaktivity.specification.kafka.internal.types.KafkaAckMode;
 import org.reaktivity.specification.kafka.internal.types.KafkaCapabilities;
 import org.reaktivity.specification.kafka.internal.types.KafkaConditionFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaDeltaFW;
@@ -39,12 +40,15 @@ import org.reaktivity.specification.kafka.internal.types.KafkaDeltaType;
 import org.reaktivity.specification.kafka.internal.types.KafkaFilterFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaHeaderFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaHeadersFW;
+import org.reaktivity.specification.kafka.internal.types.KafkaIsolation;
 import org.reaktivity.specification.kafka.internal.types.KafkaKeyFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaNotFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaOffsetFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaOffsetType;
+import org.reaktivity.specification.kafka.internal.types.KafkaPartitioner;
 import org.reaktivity.specification.kafka.internal.types.KafkaSkip;
 import org.reaktivity.specification.kafka.internal.types.KafkaSkipFW;
+import org.reaktivity.specification.kafka.internal.types.KafkaTransactionResult;
 import org.reaktivity.specification.kafka.internal.types.KafkaValueFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaValueMatchFW;
 import org.reaktivity.specification.kafka.internal.types.OctetsFW;
@@ -52,6 +56,7 @@ import org.reaktivity.specification.kafka.internal.types.control.KafkaRouteExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaApi;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaBootstrapBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaBootstrapFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaDescribeBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaDescribeDataExFW;
@@ -59,13 +64,20 @@ import org.reaktivity.specification.kafka.internal.types.stream.KafkaFetchBeginE
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaFetchDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaFetchFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaFlushExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaGroupBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaGroupFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMergedBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMergedDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMergedFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMetaBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMetaDataExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetCommitBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetCommitDataExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetFetchBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetFetchDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaProduceBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaProduceDataExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaProduceFlushExFW;
 
 public final class KafkaFunctions
 {
@@ -274,6 +286,20 @@ public final class KafkaFunctions
             return this;
         }
 
+        public KafkaRouteExBuilder deleteRetentionMillis(
+            long deleteRetentionMillis)
+        {
+            routeExRW.deleteRetentionMillis(deleteRetentionMillis);
+            return this;
+        }
+
+        public KafkaRouteExBuilder clientRack(
+            String clientRack)
+        {
+            routeExRW.clientRack(clientRack);
+            return this;
+        }
+
         public byte[] build()
         {
             final KafkaRouteExFW routeEx = routeExRW.build();
@@ -596,6 +622,13 @@ public final class KafkaFunctions
             return new KafkaMergedBeginExBuilder();
         }
 
+        public KafkaGroupBeginExBuilder group()
+        {
+            beginExRW.kind(KafkaApi.GROUP.value());
+
+            return new KafkaGroupBeginExBuilder();
+        }
+
         public KafkaFetchBeginExBuilder fetch()
         {
             beginExRW.kind(KafkaApi.FETCH.value());
@@ -624,6 +657,20 @@ public final class KafkaFunctions
             return new KafkaProduceBeginExBuilder();
         }
 
+        public KafkaOffsetCommitBeginExBuilder offsetCommit()
+        {
+            beginExRW.kind(KafkaApi.OFFSET_COMMIT.value());
+
+            return new KafkaOffsetCommitBeginExBuilder();
+        }
+
+        public KafkaOffsetFetchBeginExBuilder offsetFetch()
+        {
+            beginExRW.kind(KafkaApi.OFFSET_FETCH.value());
+
+            return new KafkaOffsetFetchBeginExBuilder();
+        }
+
         public byte[] build()
         {
             final KafkaBeginExFW beginEx = beginExRO;
@@ -648,6 +695,27 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaBootstrapBeginExBuilder partitionsMax(
+                int partitionsMax)
+            {
+                bootstrapBeginExRW.partitionsMax(partitionsMax);
+                return this;
+            }
+
+            public KafkaBootstrapBeginExBuilder bytesPerSecondMax(
+                long bytesPerSecondMax)
+            {
+                bootstrapBeginExRW.bytesPerSecondMax(bytesPerSecondMax);
+                return this;
+            }
+
+            public KafkaBootstrapBeginExBuilder priority(
+                int priority)
+            {
+                bootstrapBeginExRW.priority(priority);
+                return this;
+            }
+
             public KafkaBeginExBuilder build()
             {
                 final KafkaBootstrapBeginExFW bootstrapBeginEx = bootstrapBeginExRW.build();
@@ -720,6 +788,34 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaMergedBeginExBuilder startTimestamp(
+                long startTimestamp)
+            {
+                mergedBeginExRW.startTimestamp(startTimestamp);
+                return this;
+            }
+
+            public KafkaMergedBeginExBuilder ackMode(
+                String ackMode)
+            {
+                mergedBeginExRW.ackMode(a -> a.set(KafkaAckMode.valueOf(ackMode)));
+                return this;
+            }
+
+            public KafkaMergedBeginExBuilder groupId(
+                String groupId)
+            {
+                mergedBeginExRW.groupId(groupId);
+                return this;
+            }
+
+            public KafkaMergedBeginExBuilder partitioner(
+                String partitioner)
+            {
+                mergedBeginExRW.partitioner(p -> p.set(KafkaPartitioner.valueOf(partitioner)));
+                return this;
+            }
+
             public KafkaBeginExBuilder build()
             {
                 final KafkaMergedBeginExFW mergedBeginEx = mergedBeginExRW.build();
@@ -728,6 +824,44 @@ public final class KafkaFunctions
             }
         }
 
+        public final class KafkaGroupBeginExBuilder
+        {
+            private final KafkaGroupBeginExFW.Builder groupBeginExRW = new KafkaGroupBeginExFW.Builder();
+
+            private KafkaGroupBeginExBuilder()
+            {
+                groupBeginExRW.wrap(writeBuffer, KafkaBeginExFW.FIELD_OFFSET_GROUP, writeBuffer.capacity());
+            }
+
+            public KafkaGroupBeginExBuilder groupId(
+                String groupId)
+            {
+                groupBeginExRW.groupId(groupId);
+                return this;
+            }
+
+            public KafkaGroupBeginExBuilder topic(
+                String topic)
+            {
+                groupBeginExRW.topic(topic);
+                return this;
+            }
+
+            public KafkaGroupBeginExBuilder timeout(
+                int timeout)
+            {
+                groupBeginExRW.timeout(timeout);
+                return this;
+            }
+
+            public KafkaBeginExBuilder build()
+            {
+                final KafkaGroupBeginExFW groupBeginEx = groupBeginExRW.build();
+                beginExRO.wrap(writeBuffer, 0, groupBeginEx.limit());
+                return KafkaBeginExBuilder.this;
+            }
+        }
+
         public final class KafkaFetchBeginExBuilder
         {
             private final KafkaFetchBeginExFW.Builder fetchBeginExRW = new KafkaFetchBeginExFW.Builder();
@@ -785,6 +919,20 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaFetchBeginExBuilder startTimestamp(
+                long startTimestamp)
+            {
+                fetchBeginExRW.startTimestamp(startTimestamp);
+                return this;
+            }
+
+            public KafkaFetchBeginExBuilder isolation(
+                String isolation)
+            {
+                fetchBeginExRW.isolation(i -> i.set(KafkaIsolation.valueOf(isolation)));
+                return this;
+            }
+
             public KafkaBeginExBuilder build()
             {
                 final KafkaFetchBeginExFW fetchBeginEx = fetchBeginExRW.build();
@@ -891,6 +1039,13 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaProduceBeginExBuilder ackMode(
+                String ackMode)
+            {
+                produceBeginExRW.ackMode(a -> a.set(KafkaAckMode.valueOf(ackMode)));
+                return this;
+            }
+
             public KafkaBeginExBuilder build()
             {
                 final KafkaProduceBeginExFW produceBeginEx = produceBeginExRW.build();
@@ -906,6 +1061,89 @@ public final class KafkaFunctions
                 }
             }
         }
+
+        public final class KafkaOffsetCommitBeginExBuilder
+        {
+            private final KafkaOffsetCommitBeginExFW.Builder offsetCommitBeginExRW = new KafkaOffsetCommitBeginExFW.Builder();
+
+            private KafkaOffsetCommitBeginExBuilder()
+            {
+                offsetCommitBeginExRW.wrap(writeBuffer, KafkaBeginExFW.FIELD_OFFSET_OFFSET_COMMIT, writeBuffer.capacity());
+            }
+
+            public KafkaOffsetCommitBeginExBuilder groupId(
+                String groupId)
+            {
+                offsetCommitBeginExRW.groupId(groupId);
+                return this;
+            }
+
+            public KafkaOffsetCommitBeginExBuilder memberId(
+                String memberId)
+            {
+                offsetCommitBeginExRW.memberId(memberId);
+                return this;
+            }
+
+            public KafkaOffsetCommitBeginExBuilder generationId(
+                int generationId)
+            {
+                offsetCommitBeginExRW.generationId(generationId);
+                return this;
+            }
+
+            public KafkaOffsetCommitBeginExBuilder topic(
+                String topic)
+            {
+                offsetCommitBeginExRW.topic(topic);
+                return this;
+            }
+
+            public KafkaBeginExBuilder build()
+            {
+                final KafkaOffsetCommitBeginExFW offsetCommitBeginEx = offsetCommitBeginExRW.build();
+                beginExRO.wrap(writeBuffer, 0, offsetCommitBeginEx.limit());
+                return KafkaBeginExBuilder.this;
+            }
+        }
+
+        public final class KafkaOffsetFetchBeginExBuilder
+        {
+            private final KafkaOffsetFetchBeginExFW.Builder offsetFetchBeginExRW = new KafkaOffsetFetchBeginExFW.Builder();
+
+            private KafkaOffsetFetchBeginExBuilder()
+            {
+                offsetFetchBeginExRW.wrap(writeBuffer, KafkaBeginExFW.FIELD_OFFSET_OFFSET_FETCH, writeBuffer.capacity());
+            }
+
+            public KafkaOffsetFetchBeginExBuilder groupId(
+                String groupId)
+            {
+                offsetFetchBeginExRW.groupId(groupId);
+                return this;
+            }
+
+            public KafkaOffsetFetchBeginExBuilder topic(
+                String topic)
+            {
+                offsetFetchBeginExRW.topic(topic);
+                return this;
+            }
+
+            public KafkaOffsetFetchBeginExBuilder partition(
+                int partitionId)
+            {
+                offsetFetchBeginExRW.partitionsItem(p -> p.partitionId(partitionId));
+                return this;
+            }
+
+            public KafkaBeginExBuilder build()
+            {
+                final KafkaOffsetFetchBeginExFW offsetFetchBeginEx = offsetFetchBeginExRW.build();
+                beginExRO.wrap(writeBuffer, 0, offsetFetchBeginEx.limit());
+                return KafkaBeginExBuilder.this;
+            }
+        }
     }
 
     public static final class KafkaDataExBuilder
@@ -963,6 +1201,20 @@ public final class KafkaFunctions
             return new KafkaProduceDataExBuilder();
         }
 
+        public KafkaOffsetCommitDataExBuilder offsetCommit()
+        {
+            dataExRW.kind(KafkaApi.OFFSET_COMMIT.value());
+
+            return new KafkaOffsetCommitDataExBuilder();
+        }
+
+        public KafkaOffsetFetchDataExBuilder offsetFetch()
+        {
+            dataExRW.kind(KafkaApi.OFFSET_FETCH.value());
+
+            return new KafkaOffsetFetchDataExBuilder();
+        }
+
         public byte[] build()
         {
             final KafkaDataExFW dataEx = dataExRO;
@@ -1017,6 +1269,13 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaFetchDataExBuilder producerId(
+                long producerId)
+            {
+                fetchDataExRW.producerId(producerId);
+                return this;
+            }
+
             public KafkaFetchDataExBuilder key(
                 String key)
             {
@@ -1415,6 +1674,67 @@ public final class KafkaFunctions
                 return KafkaDataExBuilder.this;
             }
         }
+
+        public final class KafkaOffsetCommitDataExBuilder
+        {
+            private final KafkaOffsetCommitDataExFW.Builder offsetCommitDataExRW = new KafkaOffsetCommitDataExFW.Builder();
+
+            private KafkaOffsetCommitDataExBuilder()
+            {
+                offsetCommitDataExRW.wrap(writeBuffer, KafkaDataExFW.FIELD_OFFSET_OFFSET_COMMIT, writeBuffer.capacity());
+            }
+
+            public KafkaOffsetCommitDataExBuilder partition(
+                int partitionId,
+                long offset)
+            {
+                offsetCommitDataExRW.partition(p -> p.partitionId(partitionId)
+                                                     .partitionOffset(offset)
+                                                     .latestOffset(DEFAULT_LATEST_OFFSET));
+                return this;
+            }
+
+            public KafkaOffsetCommitDataExBuilder metadata(
+                String metadata)
+            {
+                offsetCommitDataExRW.metadata(metadata);
+                return this;
+            }
+
+            public KafkaDataExBuilder build()
+            {
+                final KafkaOffsetCommitDataExFW offsetCommitDataEx = offsetCommitDataExRW.build();
+                dataExRO.wrap(writeBuffer, 0, offsetCommitDataEx.limit());
+                return KafkaDataExBuilder.this;
+            }
+        }
+
+        public final class KafkaOffsetFetchDataExBuilder
+        {
+            private final KafkaOffsetFetchDataExFW.Builder offsetFetchDataExRW = new KafkaOffsetFetchDataExFW.Builder();
+
+            private KafkaOffsetFetchDataExBuilder()
+            {
+                offsetFetchDataExRW.wrap(writeBuffer, KafkaDataExFW.FIELD_OFFSET_OFFSET_FETCH, writeBuffer.capacity());
+            }
+
+            public KafkaOffsetFetchDataExBuilder partition(
+                int partitionId,
+                long offset)
+            {
+                offsetFetchDataExRW.partitionsItem(p -> p.partitionId(partitionId)
+                                                         .partitionOffset(offset)
+                                                         .latestOffset(DEFAULT_LATEST_OFFSET));
+                return this;
+            }
+
+            public KafkaDataExBuilder build()
+            {
+                final KafkaOffsetFetchDataExFW offsetFetchDataEx = offsetFetchDataExRW.build();
+                dataExRO.wrap(writeBuffer, 0, offsetFetchDataEx.limit());
+                return KafkaDataExBuilder.this;
+            }
+        }
     }
 
     public static final class KafkaFlushExBuilder
@@ -1437,6 +1757,13 @@ public final class KafkaFunctions
             return this;
         }
 
+        public KafkaBootstrapFlushExBuilder bootstrap()
+        {
+            flushExRW.kind(KafkaApi.BOOTSTRAP.value());
+
+            return new KafkaBootstrapFlushExBuilder();
+        }
+
         public KafkaMergedFlushExBuilder merged()
         {
             flushExRW.kind(KafkaApi.MERGED.value());
@@ -1444,6 +1771,13 @@ public final class KafkaFunctions
             return new KafkaMergedFlushExBuilder();
         }
 
+        public KafkaGroupFlushExBuilder group()
+        {
+            flushExRW.kind(KafkaApi.GROUP.value());
+
+            return new KafkaGroupFlushExBuilder();
+        }
+
         public KafkaFetchFlushExBuilder fetch()
         {
             flushExRW.kind(KafkaApi.FETCH.value());
@@ -1451,6 +1785,13 @@ public final class KafkaFunctions
             return new KafkaFetchFlushExBuilder();
         }
 
+        public KafkaProduceFlushExBuilder produce()
+        {
+            flushExRW.kind(KafkaApi.PRODUCE.value());
+
+            return new KafkaProduceFlushExBuilder();
+        }
+
         public byte[] build()
         {
             final KafkaFlushExFW flushEx = flushExRO;
@@ -1459,6 +1800,41 @@ public final class KafkaFunctions
             return array;
         }
 
+        public final class KafkaBootstrapFlushExBuilder
+        {
+            private final KafkaBootstrapFlushExFW.Builder bootstrapFlushExRW = new KafkaBootstrapFlushExFW.Builder();
+
+            private KafkaBootstrapFlushExBuilder()
+            {
+                bootstrapFlushExRW.wrap(writeBuffer, KafkaFlushExFW.FIELD_OFFSET_BOOTSTRAP, writeBuffer.capacity());
+            }
+
+            public KafkaBootstrapFlushExBuilder progress(
+                int partitionId,
+                long offset,
+                long latestOffset)
+            {
+                bootstrapFlushExRW.progressItem(p -> p.partitionId(partitionId)
+                                                      .partitionOffset(offset)
+                                                      .latestOffset(latestOffset));
+                return this;
+            }
+
+            public KafkaBootstrapFlushExBuilder caughtUp(
+                boolean caughtUp)
+            {
+                bootstrapFlushExRW.caughtUp(caughtUp ? 1 : 0);
+                return this;
+            }
+
+            public KafkaFlushExBuilder build()
+            {
+                final KafkaBootstrapFlushExFW bootstrapFlushEx = bootstrapFlushExRW.build();
+                flushExRO.wrap(writeBuffer, 0, bootstrapFlushEx.limit());
+                return KafkaFlushExBuilder.this;
+            }
+        }
+
         public final class KafkaMergedFlushExBuilder
         {
             private final KafkaMergedFlushExFW.Builder mergedFlushExRW = new KafkaMergedFlushExFW.Builder();
@@ -1500,6 +1876,51 @@ public final class KafkaFunctions
             }
         }
 
+        public final class KafkaGroupFlushExBuilder
+        {
+            private final KafkaGroupFlushExFW.Builder groupFlushExRW = new KafkaGroupFlushExFW.Builder();
+
+            private KafkaGroupFlushExBuilder()
+            {
+                groupFlushExRW.wrap(writeBuffer, KafkaFlushExFW.FIELD_OFFSET_GROUP, writeBuffer.capacity());
+            }
+
+            public KafkaGroupFlushExBuilder generationId(
+                int generationId)
+            {
+                groupFlushExRW.generationId(generationId);
+                return this;
+            }
+
+            public KafkaGroupFlushExBuilder leaderId(
+                String leaderId)
+            {
+                groupFlushExRW.leaderId(leaderId);
+                return this;
+            }
+
+            public KafkaGroupFlushExBuilder memberId(
+                String memberId)
+            {
+                groupFlushExRW.memberId(memberId);
+                return this;
+            }
+
+            public KafkaGroupFlushExBuilder partition(
+                int partitionId)
+            {
+                groupFlushExRW.partitionsItem(p -> p.partitionId(partitionId));
+                return this;
+            }
+
+            public KafkaFlushExBuilder build()
+            {
+                final KafkaGroupFlushExFW groupFlushEx = groupFlushExRW.build();
+                flushExRO.wrap(writeBuffer, 0, groupFlushEx.limit());
+                return KafkaFlushExBuilder.this;
+            }
+        }
+
         public final class KafkaFetchFlushExBuilder
         {
             private final KafkaFetchFlushExFW.Builder fetchFlushExRW = new KafkaFetchFlushExFW.Builder();
@@ -1528,6 +1949,22 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaFetchFlushExBuilder throttle(
+                int throttle)
+            {
+                fetchFlushExRW.throttle(throttle);
+                return this;
+            }
+
+            public KafkaFetchFlushExBuilder transaction(
+                String result,
+                long producerId)
+            {
+                fetchFlushExRW.transactionsItem(t -> t.result(r -> r.set(KafkaTransactionResult.valueOf(result)))
+                                                      .producerId(producerId));
+                return this;
+            }
+
             public KafkaFlushExBuilder build()
             {
                 final KafkaFetchFlushExFW fetchFlushEx = fetchFlushExRW.build();
@@ -1535,6 +1972,45 @@ public final class KafkaFunctions
                 return KafkaFlushExBuilder.this;
             }
         }
+
+        public final class KafkaProduceFlushExBuilder
+        {
+            private final KafkaProduceFlushExFW.Builder produceFlushExRW = new KafkaProduceFlushExFW.Builder();
+
+            private KafkaProduceFlushExBuilder()
+            {
+                produceFlushExRW.wrap(writeBuffer, KafkaFlushExFW.FIELD_OFFSET_PRODUCE, writeBuffer.capacity());
+            }
+
+            public KafkaProduceFlushExBuilder partition(
+                int partitionId,
+                long offset)
+            {
+                produceFlushExRW.partition(p -> p.partitionId(partitionId).partitionOffset(offset));
+                return this;
+            }
+
+            public KafkaProduceFlushExBuilder timestamp(
+                long timestamp)
+            {
+                produceFlushExRW.timestamp(timestamp);
+                return this;
+            }
+
+            public KafkaProduceFlushExBuilder throttle(
+                int throttle)
+            {
+                produceFlushExRW.throttle(throttle);
+                return this;
+            }
+
+            public KafkaFlushExBuilder build()
+            {
+                final KafkaProduceFlushExFW produceFlushEx = produceFlushExRW.build();
+                flushExRO.wrap(writeBuffer, 0, produceFlushEx.limit());
+                return KafkaFlushExBuilder.this;
+            }
+        }
     }
 
     public static final class KafkaDataExMatcherBuilder
@@ -1636,6 +2112,7 @@ public final class KafkaFunctions
             private Integer deferred;
             private Long timestamp;
             private KafkaOffsetFW.Builder partitionRW;
+            private Long producerId;
             private KafkaKeyFW.Builder keyRW;
             private KafkaDeltaFW.Builder deltaRW;
             private Array32FW.Builder<KafkaHeaderFW.Builder, KafkaHeaderFW> headersRW;
@@ -1679,6 +2156,13 @@ public final class KafkaFunctions
                 return this;
             }
 
+            public KafkaFetchDataExMatcherBuilder producerId(
+                long producerId)
+            {
+                this.producerId = producerId;
+                return this;
+            }
+
             public KafkaFetchDataExMatcherBuilder key(
                 String key)
             {
@@ -1755,6 +2239,7 @@ public final class KafkaFunctions
                 return matchDeferred(fetchDataEx) &&
                     matchTimestamp(fetchDataEx) &&
                     matchPartition(fetchDataEx) &&
+                    matchProducerId(fetchDataEx) &&
                     matchKey(fetchDataEx) &&
                     matchDelta(fetchDataEx) &&
                     matchHeaders(fetchDataEx);
@@ -1778,6 +2263,12 @@ public final class KafkaFunctions
                 return partitionRW == null || partitionRW.build().equals(fetchDataEx.partition());
             }
 
+            private boolean matchProducerId(
+                final KafkaFetchDataExFW fetchDataEx)
+            {
+                return producerId == null || producerId == fetchDataEx.producerId();
+            }
+
             private boolean matchKey(
                     final KafkaFetchDataExFW fetchDataEx)
             {
@@ -2252,6 +2743,63 @@ public final class KafkaFunctions
         return KafkaOffsetType.valueOf(type).value();
     }
 
+    @Function
+    public static int partition(
+        String key,
+        int partitionCount)
+    {
+        final byte[] bytes = key.getBytes(UTF_8);
+        return (murmur2(bytes) & 0x7fffffff) % partitionCount;
+    }
+
+    private static int murmur2(
+        byte[] data)
+    {
+        final int length = data.length;
+        final int m = 0x5bd1e995;
+        final int r = 24;
+
+        int h = 0x9747b28c ^ length;
+
+        final int length4 = length >> 2;
+        for (int i = 0; i < length4; i++)
+        {
+            final int i4 = i << 2;
+            int k = (data[i4] & 0xff) |
+                    (data[i4 + 1] & 0xff) << 8 |
+                    (data[i4 + 2] & 0xff) << 16 |
+                    (data[i4 + 3] & 0xff) << 24;
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h *= m;
+            h ^= k;
+        }
+
+        final int tail = length & ~3;
+        switch (length & 3)
+        {
+        case 3:
+            h ^= (data[tail + 2] & 0xff) << 16;
+            // fall through
+        case 2:
+            h ^= (data[tail + 1] & 0xff) << 8;
+            // fall through
+        case 1:
+            h ^= data[tail] & 0xff;
+            h *= m;
+            break;
+        default:
+            break;
+        }
+
+        h ^= h >>> 13;
+        h *= m;
+        h ^= h >>> 15;
+
+        return h;
+    }
+
     private KafkaFunctions()
     {
         // utility
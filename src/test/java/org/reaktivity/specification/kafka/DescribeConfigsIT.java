@@ -70,4 +70,28 @@ public class DescribeConfigsIT
         k3po.notifyBarrier("CHANGE_TOPIC_CONFIG");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/topic.config.info.unchanged/client",
+        "${scripts}/topic.config.info.unchanged/server"})
+    public void shouldReceiveTopicConfigInfoUnchanged() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.awaitBarrier("RECEIVED_TOPIC_CONFIG");
+        k3po.notifyBarrier("CHANGE_TOPIC_CONFIG");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.config.info.batched/client",
+        "${scripts}/topics.config.info.batched/server"})
+    public void shouldReceiveTopicsConfigInfoBatched() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
 }
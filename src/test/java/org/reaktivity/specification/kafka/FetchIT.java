@@ -59,6 +59,28 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/partition.not.leader.coalesced/client",
+        "${scripts}/partition.not.leader.coalesced/server"})
+    public void shouldCoalesceMetadataRefreshWhenPartitionsNotLeader() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.leader.failover/client",
+        "${scripts}/partition.leader.failover/server"})
+    public void shouldFetchFromNewLeaderAfterFailover() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/partition.offset/client",
@@ -81,6 +103,17 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/partition.offset.timestamp/client",
+        "${scripts}/partition.offset.timestamp/server"})
+    public void shouldRequestPartitionOffsetTimestamp() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/partition.offset.latest/client",
@@ -180,6 +213,28 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/message.value.throttled/client",
+        "${scripts}/message.value.throttled/server"})
+    public void shouldReceiveMessageValueThrottled() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.shared.broker/client",
+        "${scripts}/topics.shared.broker/server"})
+    public void shouldReceiveMessagesFromTopicsOnSharedBroker() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/message.value.null/client",
@@ -314,4 +369,48 @@ public class FetchIT
         k3po.notifyBarrier("ROUTED_SERVER");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/message.values.read.committed/client",
+        "${scripts}/message.values.read.committed/server"})
+    public void shouldReceiveCommittedMessageValues() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/record.batch.truncated/client",
+        "${scripts}/record.batch.truncated/server"})
+    public void shouldReceiveRecordsWhenBatchTruncated() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/record.batch.truncated.mid.record/client",
+        "${scripts}/record.batch.truncated.mid.record/server"})
+    public void shouldReceiveRecordsWhenRecordTruncated() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.bytes.adaptive/client",
+        "${scripts}/partition.bytes.adaptive/server"})
+    public void shouldAdaptPartitionBytesMax() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
 }
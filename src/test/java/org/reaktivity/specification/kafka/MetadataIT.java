@@ -79,4 +79,26 @@ public class MetadataIT
         k3po.notifyBarrier("ROUTED_SERVER");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.partition.info.shared/client",
+        "${scripts}/topics.partition.info.shared/server"})
+    public void shouldShareTopicsPartitionInfoRefresh() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.partition.info.batched/client",
+        "${scripts}/topics.partition.info.batched/server"})
+    public void shouldRequestTopicsPartitionInfoBatched() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
 }
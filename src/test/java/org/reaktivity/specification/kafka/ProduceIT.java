@@ -136,6 +136,61 @@ public class ProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/message.value.acks.leader/client",
+        "${scripts}/message.value.acks.leader/server"})
+    public void shouldSendMessageValueWithAcksLeaderOnly() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.acks.all/client",
+        "${scripts}/message.value.acks.all/server"})
+    public void shouldSendMessageValueWithAcksInSyncReplicas() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.throttled/client",
+        "${scripts}/message.value.throttled/server"})
+    public void shouldSendMessageValueThrottled() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.throttled.other.broker/client",
+        "${scripts}/message.value.throttled.other.broker/server"})
+    public void shouldSendMessageValueToOtherBrokerWhileThrottled() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.shared.broker/client",
+        "${scripts}/topics.shared.broker/server"})
+    public void shouldSendMessagesToTopicsOnSharedBroker() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/message.value.null/client",
@@ -270,4 +325,37 @@ public class ProduceIT
         k3po.notifyBarrier("ROUTED_SERVER");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/message.values.sticky/client",
+        "${scripts}/message.values.sticky/server"})
+    public void shouldSendMessageValuesSticky() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.values.in.flight.budget/client",
+        "${scripts}/message.values.in.flight.budget/server"})
+    public void shouldHoldCreditForInFlightBudget() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.leader.moved/client",
+        "${scripts}/partition.leader.moved/server"})
+    public void shouldRetryWhenPartitionLeaderMoved() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
 }
@@ -27,8 +27,11 @@ import static org.reaktivity.specification.kafka.internal.types.KafkaConditionTy
 import static org.reaktivity.specification.kafka.internal.types.KafkaConditionType.KEY;
 import static org.reaktivity.specification.kafka.internal.types.KafkaConditionType.NOT;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.Properties;
 
 import javax.el.ELContext;
 import javax.el.ExpressionFactory;
@@ -42,15 +45,22 @@ import org.junit.Test;
 import org.kaazing.k3po.lang.el.BytesMatcher;
 import org.kaazing.k3po.lang.internal.el.ExpressionContext;
 import org.reaktivity.specification.kafka.internal.types.Array32FW;
+import org.reaktivity.specification.kafka.internal.types.KafkaAckMode;
+import org.reaktivity.specification.kafka.internal.types.KafkaDeltaFW;
 import org.reaktivity.specification.kafka.internal.types.KafkaDeltaType;
+import org.reaktivity.specification.kafka.internal.types.KafkaIsolation;
 import org.reaktivity.specification.kafka.internal.types.KafkaOffsetFW;
+import org.reaktivity.specification.kafka.internal.types.KafkaOffsetType;
+import org.reaktivity.specification.kafka.internal.types.KafkaPartitioner;
 import org.reaktivity.specification.kafka.internal.types.KafkaSkip;
+import org.reaktivity.specification.kafka.internal.types.KafkaTransactionResult;
 import org.reaktivity.specification.kafka.internal.types.KafkaValueMatchFW;
 import org.reaktivity.specification.kafka.internal.types.OctetsFW;
 import org.reaktivity.specification.kafka.internal.types.control.KafkaRouteExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaApi;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaBootstrapBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaBootstrapFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaDescribeBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaDescribeDataExFW;
@@ -58,13 +68,20 @@ import org.reaktivity.specification.kafka.internal.types.stream.KafkaFetchBeginE
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaFetchDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaFetchFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaFlushExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaGroupBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaGroupFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMergedBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMergedDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMergedFlushExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMetaBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaMetaDataExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetCommitBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetCommitDataExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetFetchBeginExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaOffsetFetchDataExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaProduceBeginExFW;
 import org.reaktivity.specification.kafka.internal.types.stream.KafkaProduceDataExFW;
+import org.reaktivity.specification.kafka.internal.types.stream.KafkaProduceFlushExFW;
 
 public class KafkaFunctionsTest
 {
@@ -90,6 +107,37 @@ public class KafkaFunctionsTest
         assertEquals("topic", routeEx.topic().asString());
     }
 
+    @Test
+    public void shouldGenerateRouteExtensionWithDeleteRetention()
+    {
+        byte[] build = KafkaFunctions.routeEx()
+                                     .topic("topic")
+                                     .deleteRetentionMillis(3600000L)
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaRouteExFW routeEx = new KafkaRouteExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals("topic", routeEx.topic().asString());
+        assertEquals(KafkaDeltaType.NONE, routeEx.deltaType().get());
+        assertEquals(KafkaOffsetType.HISTORICAL, routeEx.defaultOffset().get());
+        assertEquals(3600000L, routeEx.deleteRetentionMillis());
+    }
+
+    @Test
+    public void shouldGenerateRouteExtensionWithClientRack()
+    {
+        byte[] build = KafkaFunctions.routeEx()
+                                     .topic("topic")
+                                     .clientRack("rack2")
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaRouteExFW routeEx = new KafkaRouteExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals("topic", routeEx.topic().asString());
+        assertEquals(-1L, routeEx.deleteRetentionMillis());
+        assertEquals("rack2", routeEx.clientRack().asString());
+    }
+
     @Test
     public void shouldGenerateBootstrapBeginExtension()
     {
@@ -109,6 +157,86 @@ public class KafkaFunctionsTest
         assertEquals("topic", bootstrapBeginEx.topic().asString());
     }
 
+    @Test
+    public void shouldGenerateBootstrapBeginExtensionWithLimits()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .bootstrap()
+                                         .topic("topic")
+                                         .partitionsMax(2)
+                                         .bytesPerSecondMax(1048576L)
+                                         .priority(1)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.BOOTSTRAP.value(), beginEx.kind());
+
+        final KafkaBootstrapBeginExFW bootstrapBeginEx = beginEx.bootstrap();
+        assertEquals("topic", bootstrapBeginEx.topic().asString());
+        assertEquals(2, bootstrapBeginEx.partitionsMax());
+        assertEquals(1048576L, bootstrapBeginEx.bytesPerSecondMax());
+        assertEquals(1, bootstrapBeginEx.priority());
+    }
+
+    @Test
+    public void shouldGenerateGroupBeginExtension()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .group()
+                                         .groupId("group")
+                                         .topic("topic")
+                                         .timeout(10000)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.GROUP.value(), beginEx.kind());
+
+        final KafkaGroupBeginExFW groupBeginEx = beginEx.group();
+        assertEquals("group", groupBeginEx.groupId().asString());
+        assertEquals("topic", groupBeginEx.topic().asString());
+        assertEquals(10000, groupBeginEx.timeout());
+    }
+
+    @Test
+    public void shouldGenerateGroupFlushExtension()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .group()
+                                         .generationId(1)
+                                         .leaderId("member-1")
+                                         .memberId("member-2")
+                                         .partition(0)
+                                         .partition(1)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, flushEx.typeId());
+        assertEquals(KafkaApi.GROUP.value(), flushEx.kind());
+
+        final KafkaGroupFlushExFW groupFlushEx = flushEx.group();
+        assertEquals(1, groupFlushEx.generationId());
+        assertEquals("member-1", groupFlushEx.leaderId().asString());
+        assertEquals("member-2", groupFlushEx.memberId().asString());
+
+        final MutableInteger partitionsCount = new MutableInteger();
+        groupFlushEx.partitions().forEach(f -> partitionsCount.value++);
+        assertEquals(2, partitionsCount.value);
+
+        assertNotNull(groupFlushEx.partitions()
+                .matchFirst(p -> p.partitionId() == 1));
+    }
+
     @Test
     public void shouldGenerateMetaBeginExtension()
     {
@@ -251,6 +379,100 @@ public class KafkaFunctionsTest
 
     }
 
+    @Test
+    public void shouldGenerateMergedBeginExtensionWithStartTimestamp()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .merged()
+                                         .topic("topic")
+                                         .partition(-1, -2L)
+                                         .startTimestamp(1591992000000L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.MERGED.value(), beginEx.kind());
+
+        final KafkaMergedBeginExFW mergedBeginEx = beginEx.merged();
+        assertEquals("topic", mergedBeginEx.topic().asString());
+        assertEquals(KafkaDeltaType.NONE, mergedBeginEx.deltaType().get());
+        assertEquals(1591992000000L, mergedBeginEx.startTimestamp());
+    }
+
+    @Test
+    public void shouldGenerateMergedBeginExtensionWithAckMode()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .merged()
+                                         .topic("topic")
+                                         .partition(-1, -1L)
+                                         .ackMode("IN_SYNC_REPLICAS")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.MERGED.value(), beginEx.kind());
+
+        final KafkaMergedBeginExFW mergedBeginEx = beginEx.merged();
+        assertEquals("topic", mergedBeginEx.topic().asString());
+        assertEquals(-1L, mergedBeginEx.startTimestamp());
+        assertEquals(KafkaAckMode.IN_SYNC_REPLICAS, mergedBeginEx.ackMode().get());
+    }
+
+    @Test
+    public void shouldGenerateMergedBeginExtensionWithGroupId()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .merged()
+                                         .capabilities("FETCH_ONLY")
+                                         .topic("topic")
+                                         .partition(-1, -2L)
+                                         .groupId("group")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.MERGED.value(), beginEx.kind());
+
+        final KafkaMergedBeginExFW mergedBeginEx = beginEx.merged();
+        assertEquals("topic", mergedBeginEx.topic().asString());
+        assertEquals(KafkaAckMode.NONE, mergedBeginEx.ackMode().get());
+        assertEquals("group", mergedBeginEx.groupId().asString());
+    }
+
+    @Test
+    public void shouldGenerateMergedBeginExtensionWithStickyPartitioner()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .merged()
+                                         .capabilities("PRODUCE_ONLY")
+                                         .topic("topic")
+                                         .ackMode("LEADER_ONLY")
+                                         .partitioner("STICKY")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.MERGED.value(), beginEx.kind());
+
+        final KafkaMergedBeginExFW mergedBeginEx = beginEx.merged();
+        assertEquals("topic", mergedBeginEx.topic().asString());
+        assertEquals(KafkaAckMode.LEADER_ONLY, mergedBeginEx.ackMode().get());
+        assertEquals(KafkaPartitioner.STICKY, mergedBeginEx.partitioner().get());
+    }
+
     @Test
     public void shouldGenerateMergedBeginExtensionWithHeaderNotEqualsFilter()
     {
@@ -856,6 +1078,78 @@ public class KafkaFunctionsTest
                                                       Objects.isNull(h.value())));
     }
 
+    @Test
+    public void shouldGenerateMergedDataExtensionWithVcdiffDelta()
+    {
+        byte[] build = KafkaFunctions.dataEx()
+                                     .typeId(0x01)
+                                     .merged()
+                                         .timestamp(12345678L)
+                                         .partition(0, 7L)
+                                         .progress(0, 8L)
+                                         .key("match")
+                                         .delta("VCDIFF", 5L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaDataExFW dataEx = new KafkaDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, dataEx.typeId());
+        assertEquals(KafkaApi.MERGED.value(), dataEx.kind());
+
+        final KafkaMergedDataExFW mergedDataEx = dataEx.merged();
+        final KafkaDeltaFW delta = mergedDataEx.delta();
+        assertEquals(KafkaDeltaType.VCDIFF, delta.type().get());
+        assertEquals(5L, delta.ancestorOffset());
+    }
+
+    @Test
+    public void shouldGenerateBootstrapFlushExtension()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .bootstrap()
+                                         .progress(0, 5L, 10L)
+                                         .progress(1, 10L, 10L)
+                                         .caughtUp(false)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, flushEx.typeId());
+        assertEquals(KafkaApi.BOOTSTRAP.value(), flushEx.kind());
+
+        final KafkaBootstrapFlushExFW bootstrapFlushEx = flushEx.bootstrap();
+        final MutableInteger partitionsCount = new MutableInteger();
+        bootstrapFlushEx.progress().forEach(f -> partitionsCount.value++);
+        assertEquals(2, partitionsCount.value);
+
+        assertNotNull(bootstrapFlushEx.progress()
+                .matchFirst(p -> p.partitionId() == 0 && p.partitionOffset() == 5L && p.latestOffset() == 10L));
+        assertNotNull(bootstrapFlushEx.progress()
+                .matchFirst(p -> p.partitionId() == 1 && p.partitionOffset() == 10L && p.latestOffset() == 10L));
+        assertEquals(0, bootstrapFlushEx.caughtUp());
+    }
+
+    @Test
+    public void shouldGenerateBootstrapFlushExtensionWhenCaughtUp()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .bootstrap()
+                                         .progress(0, 10L, 10L)
+                                         .caughtUp(true)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+
+        final KafkaBootstrapFlushExFW bootstrapFlushEx = flushEx.bootstrap();
+        assertEquals(1, bootstrapFlushEx.caughtUp());
+    }
+
     @Test
     public void shouldGenerateMergedFlushExtension()
     {
@@ -1358,6 +1652,34 @@ public class KafkaFunctionsTest
         assertNotNull(matcher.match(byteBuf));
     }
 
+    @Test
+    public void shouldMatchMergedDataExtensionVcdiffDelta() throws Exception
+    {
+        BytesMatcher matcher = KafkaFunctions.matchDataEx()
+                                             .merged()
+                                                 .delta("VCDIFF", 5L)
+                                                 .build()
+                                             .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new KafkaDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                .typeId(0x01)
+                .merged(f -> f.timestamp(12345678L)
+                        .partition(p -> p.partitionId(0).partitionOffset(7L))
+                        .progressItem(p -> p.partitionId(0).partitionOffset(8L))
+                        .key(k -> k.length(5)
+                                   .value(v -> v.set("match".getBytes(UTF_8))))
+                        .delta(d -> d.type(t -> t.set(KafkaDeltaType.VCDIFF)).ancestorOffset(5L))
+                        .headersItem(h -> h.nameLen(4)
+                                           .name(n -> n.set("name".getBytes(UTF_8)))
+                                           .valueLen(5)
+                                           .value(v -> v.set("value".getBytes(UTF_8)))))
+                .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
     @Test
     public void shouldMatchMergedDataExtensionHeader() throws Exception
     {
@@ -1658,6 +1980,53 @@ public class KafkaFunctionsTest
                                     .get((b, o, m) -> b.getStringWithoutLengthUtf8(o, m - o)))) != null));
     }
 
+    @Test
+    public void shouldGenerateFetchBeginExtensionWithStartTimestamp()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .fetch()
+                                         .topic("topic")
+                                         .partition(0, -2L)
+                                         .startTimestamp(1591992000000L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.FETCH.value(), beginEx.kind());
+
+        final KafkaFetchBeginExFW fetchBeginEx = beginEx.fetch();
+        assertEquals("topic", fetchBeginEx.topic().asString());
+        assertEquals(KafkaDeltaType.NONE, fetchBeginEx.deltaType().get());
+        assertEquals(1591992000000L, fetchBeginEx.startTimestamp());
+        assertEquals(KafkaIsolation.READ_UNCOMMITTED, fetchBeginEx.isolation().get());
+    }
+
+    @Test
+    public void shouldGenerateFetchBeginExtensionWithIsolation()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .fetch()
+                                         .topic("topic")
+                                         .partition(0, 10L)
+                                         .isolation("READ_COMMITTED")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.FETCH.value(), beginEx.kind());
+
+        final KafkaFetchBeginExFW fetchBeginEx = beginEx.fetch();
+        assertEquals("topic", fetchBeginEx.topic().asString());
+        assertEquals(-1L, fetchBeginEx.startTimestamp());
+        assertEquals(KafkaIsolation.READ_COMMITTED, fetchBeginEx.isolation().get());
+    }
+
     @Test
     public void shouldGenerateFetchBeginExtensionWithLatestOffset()
     {
@@ -1871,6 +2240,56 @@ public class KafkaFunctionsTest
                     Objects.isNull(h.value())));
     }
 
+    @Test
+    public void shouldGenerateFetchDataExtensionWithVcdiffDelta()
+    {
+        byte[] build = KafkaFunctions.dataEx()
+                                     .typeId(0x01)
+                                     .fetch()
+                                         .timestamp(12345678L)
+                                         .partition(0, 7L)
+                                         .key("match")
+                                         .delta("VCDIFF", 5L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaDataExFW dataEx = new KafkaDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, dataEx.typeId());
+        assertEquals(KafkaApi.FETCH.value(), dataEx.kind());
+
+        final KafkaFetchDataExFW fetchDataEx = dataEx.fetch();
+        final KafkaDeltaFW delta = fetchDataEx.delta();
+        assertEquals(KafkaDeltaType.VCDIFF, delta.type().get());
+        assertEquals(5L, delta.ancestorOffset());
+    }
+
+    @Test
+    public void shouldGenerateFetchDataExtensionWithProducerId()
+    {
+        byte[] build = KafkaFunctions.dataEx()
+                                     .typeId(0x01)
+                                     .fetch()
+                                         .timestamp(12345678L)
+                                         .partition(0, 10L)
+                                         .producerId(1L)
+                                         .key("match")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaDataExFW dataEx = new KafkaDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, dataEx.typeId());
+        assertEquals(KafkaApi.FETCH.value(), dataEx.kind());
+
+        final KafkaFetchDataExFW fetchDataEx = dataEx.fetch();
+        assertEquals(10L, fetchDataEx.partition().partitionOffset());
+        assertEquals(1L, fetchDataEx.producerId());
+        assertEquals("match", fetchDataEx.key()
+                                         .value()
+                                         .get((b, o, m) -> b.getStringWithoutLengthUtf8(o, m - o)));
+    }
+
     @Test
     public void shouldGenerateFetchFlushExtension()
     {
@@ -1912,6 +2331,58 @@ public class KafkaFunctionsTest
         assertEquals(1L, partition.latestOffset());
     }
 
+    @Test
+    public void shouldGenerateFetchFlushExtensionWithThrottle()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .fetch()
+                                         .partition(0, 1L)
+                                         .throttle(1000)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, flushEx.typeId());
+
+        final KafkaFetchFlushExFW fetchFlushEx = flushEx.fetch();
+        final KafkaOffsetFW partition = fetchFlushEx.partition();
+        assertEquals(0, partition.partitionId());
+        assertEquals(1L, partition.partitionOffset());
+        assertEquals(1000, fetchFlushEx.throttle());
+    }
+
+    @Test
+    public void shouldGenerateFetchFlushExtensionWithTransactions()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .fetch()
+                                         .partition(0, 14L)
+                                         .transaction("ABORT", 2L)
+                                         .transaction("COMMIT", 1L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, flushEx.typeId());
+
+        final KafkaFetchFlushExFW fetchFlushEx = flushEx.fetch();
+        assertEquals(14L, fetchFlushEx.partition().partitionOffset());
+        assertEquals(0, fetchFlushEx.throttle());
+
+        final MutableInteger transactionsCount = new MutableInteger();
+        fetchFlushEx.transactions().forEach(t -> transactionsCount.value++);
+        assertEquals(2, transactionsCount.value);
+
+        assertNotNull(fetchFlushEx.transactions()
+                .matchFirst(t -> t.result().get() == KafkaTransactionResult.ABORT && t.producerId() == 2L));
+        assertNotNull(fetchFlushEx.transactions()
+                .matchFirst(t -> t.result().get() == KafkaTransactionResult.COMMIT && t.producerId() == 1L));
+    }
+
     @Test
     public void shouldMatchFetchDataExtension() throws Exception
     {
@@ -2030,6 +2501,30 @@ public class KafkaFunctionsTest
         assertNotNull(matcher.match(byteBuf));
     }
 
+    @Test
+    public void shouldMatchFetchDataExtensionProducerId() throws Exception
+    {
+        BytesMatcher matcher = KafkaFunctions.matchDataEx()
+                                             .fetch()
+                                                 .partition(0, 10L)
+                                                 .producerId(1L)
+                                                 .build()
+                                             .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new KafkaDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                .typeId(0x01)
+                .fetch(f -> f.timestamp(12345678L)
+                        .partition(p -> p.partitionId(0).partitionOffset(10L))
+                        .producerId(1L)
+                        .key(k -> k.length(-1).value((OctetsFW) null))
+                        .delta(d -> d.type(t -> t.set(KafkaDeltaType.NONE))))
+                .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
     @Test
     public void shouldMatchFetchDataExtensionPartition() throws Exception
     {
@@ -2142,6 +2637,33 @@ public class KafkaFunctionsTest
         assertNotNull(matcher.match(byteBuf));
     }
 
+    @Test
+    public void shouldMatchFetchDataExtensionVcdiffDelta() throws Exception
+    {
+        BytesMatcher matcher = KafkaFunctions.matchDataEx()
+                                             .fetch()
+                                                 .delta("VCDIFF", 5L)
+                                                 .build()
+                                             .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new KafkaDataExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+                .typeId(0x01)
+                .fetch(f -> f.timestamp(12345678L)
+                        .partition(p -> p.partitionId(0).partitionOffset(7L))
+                        .key(k -> k.length(5)
+                                   .value(v -> v.set("match".getBytes(UTF_8))))
+                        .delta(d -> d.type(t -> t.set(KafkaDeltaType.VCDIFF)).ancestorOffset(5L))
+                        .headersItem(h -> h.nameLen(4)
+                                           .name(n -> n.set("name".getBytes(UTF_8)))
+                                           .valueLen(5)
+                                           .value(v -> v.set("value".getBytes(UTF_8)))))
+                .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
     @Test
     public void shouldMatchFetchDataExtensionHeader() throws Exception
     {
@@ -2342,6 +2864,75 @@ public class KafkaFunctionsTest
         assertEquals(0, produceBeginEx.partitionId());
     }
 
+    @Test
+    public void shouldGenerateProduceBeginExtensionWithAckMode()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .produce()
+                                         .topic("topic")
+                                         .partitionId(0)
+                                         .ackMode("LEADER_ONLY")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.PRODUCE.value(), beginEx.kind());
+
+        final KafkaProduceBeginExFW produceBeginEx = beginEx.produce();
+        assertNull(produceBeginEx.transaction().asString());
+        assertEquals("topic", produceBeginEx.topic().asString());
+        assertEquals(0, produceBeginEx.partitionId());
+        assertEquals(KafkaAckMode.LEADER_ONLY, produceBeginEx.ackMode().get());
+    }
+
+    @Test
+    public void shouldGenerateProduceFlushExtension()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .produce()
+                                         .partition(0, 20L)
+                                         .timestamp(12345678L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, flushEx.typeId());
+        assertEquals(KafkaApi.PRODUCE.value(), flushEx.kind());
+
+        final KafkaProduceFlushExFW produceFlushEx = flushEx.produce();
+        final KafkaOffsetFW partition = produceFlushEx.partition();
+        assertEquals(0, partition.partitionId());
+        assertEquals(20L, partition.partitionOffset());
+        assertEquals(12345678L, produceFlushEx.timestamp());
+    }
+
+    @Test
+    public void shouldGenerateProduceFlushExtensionWithThrottle()
+    {
+        byte[] build = KafkaFunctions.flushEx()
+                                     .typeId(0x01)
+                                     .produce()
+                                         .partition(0, 20L)
+                                         .throttle(1000)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaFlushExFW flushEx = new KafkaFlushExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, flushEx.typeId());
+        assertEquals(KafkaApi.PRODUCE.value(), flushEx.kind());
+
+        final KafkaProduceFlushExFW produceFlushEx = flushEx.produce();
+        assertEquals(20L, produceFlushEx.partition().partitionOffset());
+        assertEquals(-1L, produceFlushEx.timestamp());
+        assertEquals(1000, produceFlushEx.throttle());
+    }
+
     @Test
     public void shouldGenerateProduceDataExtension()
     {
@@ -3037,4 +3628,156 @@ public class KafkaFunctionsTest
     {
         assertEquals(-1, KafkaFunctions.offset("LIVE"));
     }
+
+    @Test
+    public void shouldComputePartitionFromMurmur2Hash()
+    {
+        assertEquals(-973932308 & 0x7fffffff, KafkaFunctions.partition("21", Integer.MAX_VALUE));
+        assertEquals(-790332482 & 0x7fffffff, KafkaFunctions.partition("foobar", Integer.MAX_VALUE));
+        assertEquals(-985981536 & 0x7fffffff, KafkaFunctions.partition("a-little-bit-long-string", Integer.MAX_VALUE));
+        assertEquals(-1486304829 & 0x7fffffff, KafkaFunctions.partition("a-little-bit-longer-string", Integer.MAX_VALUE));
+        assertEquals(-58897971 & 0x7fffffff,
+                KafkaFunctions.partition("lkjh234lh9fiuh90y23oiuhsafujhadof229phr9h19h89h8", Integer.MAX_VALUE));
+        assertEquals(479470107, KafkaFunctions.partition("abc", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldComputePartitionForDefaultPartitioner() throws Exception
+    {
+        final Properties partitions = new Properties();
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("partitions.64.properties"), UTF_8))
+        {
+            partitions.load(reader);
+        }
+
+        assertEquals(4096, partitions.size());
+        for (String key : partitions.stringPropertyNames())
+        {
+            assertEquals(key, Integer.parseInt(partitions.getProperty(key)), KafkaFunctions.partition(key, 64));
+        }
+    }
+
+    @Test
+    public void shouldInvokePartition() throws Exception
+    {
+        String expressionText = "${kafka:partition(\"key7\", 3)}";
+        ValueExpression expression = factory.createValueExpression(ctx, expressionText, Integer.class);
+        Object actual = expression.getValue(ctx);
+        assertEquals(0, actual);
+    }
+
+    @Test
+    public void shouldGenerateOffsetFetchBeginExtension()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .offsetFetch()
+                                         .groupId("group")
+                                         .topic("topic")
+                                         .partition(0)
+                                         .partition(1)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.OFFSET_FETCH.value(), beginEx.kind());
+
+        final KafkaOffsetFetchBeginExFW offsetFetchBeginEx = beginEx.offsetFetch();
+        assertEquals("group", offsetFetchBeginEx.groupId().asString());
+        assertEquals("topic", offsetFetchBeginEx.topic().asString());
+
+        final MutableInteger partitionsCount = new MutableInteger();
+        offsetFetchBeginEx.partitions().forEach(f -> partitionsCount.value++);
+        assertEquals(2, partitionsCount.value);
+    }
+
+    @Test
+    public void shouldGenerateOffsetFetchDataExtension()
+    {
+        byte[] build = KafkaFunctions.dataEx()
+                                     .typeId(0x01)
+                                     .offsetFetch()
+                                         .partition(0, 10L)
+                                         .partition(1, -1L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaDataExFW dataEx = new KafkaDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, dataEx.typeId());
+        assertEquals(KafkaApi.OFFSET_FETCH.value(), dataEx.kind());
+
+        final KafkaOffsetFetchDataExFW offsetFetchDataEx = dataEx.offsetFetch();
+        assertNotNull(offsetFetchDataEx.partitions()
+                .matchFirst(p -> p.partitionId() == 0 && p.partitionOffset() == 10L));
+        assertNotNull(offsetFetchDataEx.partitions()
+                .matchFirst(p -> p.partitionId() == 1 && p.partitionOffset() == -1L));
+    }
+
+    @Test
+    public void shouldGenerateOffsetCommitBeginExtension()
+    {
+        byte[] build = KafkaFunctions.beginEx()
+                                     .typeId(0x01)
+                                     .offsetCommit()
+                                         .groupId("group")
+                                         .memberId("member-1")
+                                         .generationId(1)
+                                         .topic("topic")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaBeginExFW beginEx = new KafkaBeginExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, beginEx.typeId());
+        assertEquals(KafkaApi.OFFSET_COMMIT.value(), beginEx.kind());
+
+        final KafkaOffsetCommitBeginExFW offsetCommitBeginEx = beginEx.offsetCommit();
+        assertEquals("group", offsetCommitBeginEx.groupId().asString());
+        assertEquals("member-1", offsetCommitBeginEx.memberId().asString());
+        assertEquals(1, offsetCommitBeginEx.generationId());
+        assertEquals("topic", offsetCommitBeginEx.topic().asString());
+    }
+
+    @Test
+    public void shouldGenerateOffsetCommitDataExtension()
+    {
+        byte[] build = KafkaFunctions.dataEx()
+                                     .typeId(0x01)
+                                     .offsetCommit()
+                                         .partition(0, 10L)
+                                         .metadata("metadata")
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaDataExFW dataEx = new KafkaDataExFW().wrap(buffer, 0, buffer.capacity());
+        assertEquals(0x01, dataEx.typeId());
+        assertEquals(KafkaApi.OFFSET_COMMIT.value(), dataEx.kind());
+
+        final KafkaOffsetCommitDataExFW offsetCommitDataEx = dataEx.offsetCommit();
+        assertEquals(0, offsetCommitDataEx.partition().partitionId());
+        assertEquals(10L, offsetCommitDataEx.partition().partitionOffset());
+        assertEquals("metadata", offsetCommitDataEx.metadata().asString());
+    }
+
+    @Test
+    public void shouldGenerateOffsetCommitDataExtensionWithNullMetadata()
+    {
+        byte[] build = KafkaFunctions.dataEx()
+                                     .typeId(0x01)
+                                     .offsetCommit()
+                                         .partition(0, 10L)
+                                         .build()
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        KafkaDataExFW dataEx = new KafkaDataExFW().wrap(buffer, 0, buffer.capacity());
+
+        final KafkaOffsetCommitDataExFW offsetCommitDataEx = dataEx.offsetCommit();
+        assertEquals(10L, offsetCommitDataEx.partition().partitionOffset());
+        assertNull(offsetCommitDataEx.metadata().asString());
+    }
 }
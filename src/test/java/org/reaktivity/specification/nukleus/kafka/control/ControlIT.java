@@ -55,6 +55,16 @@ public class ControlIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "route.ext/client.rack/nukleus",
+        "route.ext/client.rack/controller"
+    })
+    public void shouldRouteClientWithClientRack() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "route.ext/client.merged/nukleus",
@@ -85,6 +95,16 @@ public class ControlIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "route.ext/cache.compacted/nukleus",
+        "route.ext/cache.compacted/controller"
+    })
+    public void shouldRouteCacheCompactedWithExtension() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "route.ext/cache.merged/nukleus",
@@ -117,6 +137,16 @@ public class ControlIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "route.ext/cache.delta/vcdiff/nukleus",
+        "route.ext/cache.delta/vcdiff/controller"
+    })
+    public void shouldRouteCacheDeltaVcdiff() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "unroute/client/nukleus",
@@ -46,4 +46,70 @@ public class BootstrapIT
         k3po.notifyBarrier("ROUTED_SERVER");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.offsets.earliest.limited/client",
+        "${scripts}/partition.offsets.earliest.limited/server"})
+    public void shouldRequestBootstrapPartitionOffsetsEarliestLimited() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.offsets.earliest.prioritized/client",
+        "${scripts}/partition.offsets.earliest.prioritized/server"})
+    public void shouldRequestBootstrapPartitionOffsetsEarliestPrioritized() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.offsets.earliest.progress/client",
+        "${scripts}/partition.offsets.earliest.progress/server"})
+    public void shouldReceiveBootstrapPartitionOffsetsEarliestProgress() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.offsets.earliest.caught.up/client",
+        "${scripts}/partition.offsets.earliest.caught.up/server"})
+    public void shouldReceiveBootstrapPartitionOffsetsEarliestCaughtUp() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_SERVER");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.partition.offsets.earliest.limited/client",
+        "${scripts}/unmerged.partition.offsets.earliest.limited/server"})
+    public void shouldFetchUnmergedPartitionOffsetsEarliestLimited() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.partition.offsets.earliest.prioritized/client",
+        "${scripts}/unmerged.partition.offsets.earliest.prioritized/server"})
+    public void shouldFetchUnmergedPartitionOffsetsEarliestPrioritized() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
 }
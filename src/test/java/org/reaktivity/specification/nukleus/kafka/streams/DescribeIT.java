@@ -70,4 +70,17 @@ public class DescribeIT
         k3po.notifyBarrier("CHANGE_TOPIC_CONFIG");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/topic.config.info.shared/client",
+        "${scripts}/topic.config.info.shared/server"})
+    public void shouldShareTopicConfigInfoChanged() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.awaitBarrier("RECEIVED_TOPIC_CONFIG");
+        k3po.notifyBarrier("CHANGE_TOPIC_CONFIG");
+        k3po.finish();
+    }
 }
@@ -103,6 +103,17 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/partition.offset.timestamp/client",
+        "${scripts}/partition.offset.timestamp/server"})
+    public void shouldRequestPartitionOffsetTimestamp() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/partition.offset.latest/client",
@@ -202,6 +213,28 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/message.value.throttled/client",
+        "${scripts}/message.value.throttled/server"})
+    public void shouldReceiveMessageValueThrottled() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.shared.broker/client",
+        "${scripts}/topics.shared.broker/server"})
+    public void shouldReceiveMessagesFromTopicsOnSharedBroker() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/message.value.empty/client",
@@ -482,6 +515,39 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/filter.none.json.patch.resumed/client",
+        "${scripts}/filter.none.json.patch.resumed/server"})
+    public void shouldReceiveJsonPatchMessagesWhenResumedAfterAncestor() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/filter.none.json.patch.evicted/client",
+        "${scripts}/filter.none.json.patch.evicted/server"})
+    public void shouldReceiveJsonPatchFullValueWhenAncestorEvicted() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/filter.none.vcdiff/client",
+        "${scripts}/filter.none.vcdiff/server"})
+    public void shouldReceiveVcdiffMessagesWithNoFilter() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/compact.message.with.message/client",
@@ -526,6 +592,17 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/compact.tombstone.expired/client",
+        "${scripts}/compact.tombstone.expired/server"})
+    public void shouldCompactExpiredTombstone() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/compacted.message.with.message/client",
@@ -570,6 +647,39 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/compacted.tombstone.retained/client",
+        "${scripts}/compacted.tombstone.retained/server"})
+    public void shouldReceiveRetainedTombstoneAfterCompaction() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/compacted.tombstone.expired/client",
+        "${scripts}/compacted.tombstone.expired/server"})
+    public void shouldSkipExpiredTombstoneAfterCompaction() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/compacted.messages.superseded/client",
+        "${scripts}/compacted.messages.superseded/server"})
+    public void shouldReceiveLatestMessagesAfterCompaction() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/filter.not.header/client",
@@ -635,4 +745,70 @@ public class FetchIT
         k3po.notifyBarrier("ROUTED_CLIENT");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/message.values.read.committed/client",
+        "${scripts}/message.values.read.committed/server"})
+    public void shouldReceiveCommittedMessageValues() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/transaction.markers/client",
+        "${scripts}/transaction.markers/server"})
+    public void shouldReceiveTransactionMarkers() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/isolation.mixed/client",
+        "${scripts}/isolation.mixed/server"})
+    public void shouldReceiveMessagesWithMixedIsolation() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/record.batch.truncated/client",
+        "${scripts}/record.batch.truncated/server"})
+    public void shouldReceiveRecordsWhenBatchTruncated() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/record.batch.truncated.mid.record/client",
+        "${scripts}/record.batch.truncated.mid.record/server"})
+    public void shouldReceiveRecordsWhenRecordTruncated() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.bytes.adaptive/client",
+        "${scripts}/partition.bytes.adaptive/server"})
+    public void shouldAdaptPartitionBytesMax() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
 }
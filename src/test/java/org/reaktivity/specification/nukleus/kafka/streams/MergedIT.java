@@ -146,6 +146,17 @@ public class MergedIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.partition.offsets.timestamp/client",
+        "${scripts}/merged.fetch.partition.offsets.timestamp/server"})
+    public void shouldFetchMergedPartitionOffsetsTimestamp() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/merged.fetch.partition.offsets.earliest.overflow/client",
@@ -157,6 +168,28 @@ public class MergedIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.partition.offsets.resume/client",
+        "${scripts}/merged.fetch.partition.offsets.resume/server"})
+    public void shouldFetchMergedPartitionOffsetsResume() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.partition.offsets.resume.large/client",
+        "${scripts}/merged.fetch.partition.offsets.resume.large/server"})
+    public void shouldFetchMergedPartitionOffsetsResumeLarge() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/merged.fetch.partition.leader.changed/client",
@@ -168,6 +201,17 @@ public class MergedIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.partition.leader.failover/client",
+        "${scripts}/merged.fetch.partition.leader.failover/server"})
+    public void shouldFetchMergedPartitionLeaderFailover() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/merged.fetch.partition.leader.aborted/client",
@@ -305,6 +349,39 @@ public class MergedIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/unmerged.fetch.partition.offsets.timestamp/client",
+        "${scripts}/unmerged.fetch.partition.offsets.timestamp/server"})
+    public void shouldFetchUnmergedPartitionOffsetsTimestamp() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.fetch.partition.offsets.resume/client",
+        "${scripts}/unmerged.fetch.partition.offsets.resume/server"})
+    public void shouldFetchUnmergedPartitionOffsetsResume() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.fetch.partition.offsets.resume.large/client",
+        "${scripts}/unmerged.fetch.partition.offsets.resume.large/server"})
+    public void shouldFetchUnmergedPartitionOffsetsResumeLarge() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/unmerged.fetch.partition.leader.changed/client",
@@ -318,6 +395,17 @@ public class MergedIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/unmerged.fetch.partition.leader.failover/client",
+        "${scripts}/unmerged.fetch.partition.leader.failover/server"})
+    public void shouldFetchUnmergedPartitionLeaderFailover() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/unmerged.fetch.partition.leader.aborted/client",
@@ -507,4 +595,125 @@ public class MergedIT
         k3po.notifyBarrier("ROUTED_CLIENT");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.progress.committed/client",
+        "${scripts}/merged.fetch.progress.committed/server"})
+    public void shouldCommitMergedProgress() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.progress.committed.batched/client",
+        "${scripts}/merged.fetch.progress.committed.batched/server"})
+    public void shouldCommitMergedProgressBatched() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.fetch.progress.committed.batched/client",
+        "${scripts}/unmerged.fetch.progress.committed.batched/server"})
+    public void shouldCommitUnmergedProgressBatched() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.fetch.progress.commit.failed/client",
+        "${scripts}/merged.fetch.progress.commit.failed/server"})
+    public void shouldRetryMergedProgressCommitAfterFailure() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.fetch.progress.commit.failed/client",
+        "${scripts}/unmerged.fetch.progress.commit.failed/server"})
+    public void shouldRetryUnmergedProgressCommitAfterFailure() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.produce.message.values.hashed.64/client",
+        "${scripts}/merged.produce.message.values.hashed.64/server"})
+    public void shouldProduceMergedMessageValuesHashedAcross64Partitions() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.produce.message.values.hashed.64/client",
+        "${scripts}/unmerged.produce.message.values.hashed.64/server"})
+    public void shouldProduceUnmergedMessageValuesHashedAcross64Partitions() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.produce.message.values.sticky/client",
+        "${scripts}/merged.produce.message.values.sticky/server"})
+    public void shouldProduceMergedMessageValuesSticky() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.produce.message.values.sticky/client",
+        "${scripts}/unmerged.produce.message.values.sticky/server"})
+    public void shouldProduceUnmergedMessageValuesSticky() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/merged.produce.message.values.in.flight.budget/client",
+        "${scripts}/merged.produce.message.values.in.flight.budget/server"})
+    public void shouldProduceMergedMessageValuesWithinInFlightBudget() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/unmerged.produce.message.values.in.flight.budget/client",
+        "${scripts}/unmerged.produce.message.values.in.flight.budget/server"})
+    public void shouldProduceUnmergedMessageValuesWithinInFlightBudget() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
 }
@@ -81,4 +81,17 @@ public class MetaIT
         k3po.notifyBarrier("SEND_SECOND_META");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.partition.info.shared/client",
+        "${scripts}/topics.partition.info.shared/server"})
+    public void shouldShareTopicsPartitionInfoRefresh() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.awaitBarrier("RECEIVED_FIRST_META");
+        k3po.notifyBarrier("SEND_SECOND_META");
+        k3po.finish();
+    }
 }
@@ -158,6 +158,50 @@ public class ProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${scripts}/message.value.acks.leader/client",
+        "${scripts}/message.value.acks.leader/server"})
+    public void shouldSendMessageValueWithAcksLeaderOnly() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.acks.all/client",
+        "${scripts}/message.value.acks.all/server"})
+    public void shouldSendMessageValueWithAcksInSyncReplicas() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.throttled/client",
+        "${scripts}/message.value.throttled/server"})
+    public void shouldSendMessageValueThrottled() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/topics.shared.broker/client",
+        "${scripts}/topics.shared.broker/server"})
+    public void shouldSendMessagesToTopicsOnSharedBroker() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${scripts}/message.value.null/client",
@@ -292,4 +336,48 @@ public class ProduceIT
         k3po.notifyBarrier("ROUTED_CLIENT");
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.transaction.commit/client",
+        "${scripts}/message.value.transaction.commit/server"})
+    public void shouldSendMessageValueInCommittedTransaction() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.value.transaction.abort/client",
+        "${scripts}/message.value.transaction.abort/server"})
+    public void shouldSendMessageValueInAbortedTransaction() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/message.values.in.flight.budget/client",
+        "${scripts}/message.values.in.flight.budget/server"})
+    public void shouldHoldCreditForInFlightBudget() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${scripts}/partition.leader.moved/client",
+        "${scripts}/partition.leader.moved/server"})
+    public void shouldRetryWhenPartitionLeaderMoved() throws Exception
+    {
+        k3po.start();
+        k3po.notifyBarrier("ROUTED_CLIENT");
+        k3po.finish();
+    }
 }